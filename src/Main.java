@@ -2,6 +2,13 @@ import models.TaskManager;
 
 public class Main {
     public static void main(String[] args) {
-        new TaskManager().run();
+        TaskManager manager;
+        try {
+            manager = args.length > 0 ? new TaskManager(args[0]) : new TaskManager();
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+        manager.run();
     }
 }
\ No newline at end of file
@@ -0,0 +1,3 @@
+package events;
+
+public enum BackpressurePolicy { BLOCK, DROP_OLDEST, DROP_NEWEST }
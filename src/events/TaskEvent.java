@@ -0,0 +1,25 @@
+package events;
+
+import models.Task;
+
+public sealed interface TaskEvent {
+    int taskId();
+
+    record Created(int taskId) implements TaskEvent {
+    }
+
+    record StatusChanged(int taskId, Task.Status from, Task.Status to) implements TaskEvent {
+    }
+
+    record DescriptionChanged(int taskId, String from, String to) implements TaskEvent {
+    }
+
+    record Deleted(int taskId) implements TaskEvent {
+    }
+
+    record Rated(int taskId, int rating) implements TaskEvent {
+    }
+
+    record Overdue(int taskId) implements TaskEvent {
+    }
+}
@@ -0,0 +1,201 @@
+package events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class TaskEventBus implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong published = new AtomicLong();
+    private volatile boolean closed = false;
+
+    public Subscription subscribe(String name, TaskEventListener listener) {
+        return subscribe(name, listener, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, BackpressurePolicy.BLOCK);
+    }
+
+    public Subscription subscribe(String name, TaskEventListener listener,
+                                  int capacity, int batchSize, BackpressurePolicy policy) {
+        if (closed) {
+            throw new IllegalStateException("Шина событий закрыта");
+        }
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Размер буфера и пакета должен быть больше 0");
+        }
+        Subscription subscription = new Subscription(name, listener, capacity, batchSize, policy);
+        subscriptions.add(subscription);
+        subscription.start();
+        return subscription;
+    }
+
+    public void publish(TaskEvent event) {
+        if (closed) {
+            return;
+        }
+        published.incrementAndGet();
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    public long getPublished() {
+        return published.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+    }
+
+    public class Subscription implements AutoCloseable {
+        private final String name;
+        private final TaskEventListener listener;
+        private final int batchSize;
+        private final BackpressurePolicy policy;
+
+        private final TaskEvent[] ring;
+        private int head;
+        private int count;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Condition notFull = lock.newCondition();
+
+        private final Thread dispatcher;
+        private boolean active = true;
+        private long delivered;
+        private long dropped;
+
+        private Subscription(String name, TaskEventListener listener,
+                             int capacity, int batchSize, BackpressurePolicy policy) {
+            this.name = name;
+            this.listener = listener;
+            this.batchSize = batchSize;
+            this.policy = policy;
+            this.ring = new TaskEvent[capacity];
+            this.dispatcher = new Thread(this::dispatch, "task-events-" + name);
+            this.dispatcher.setDaemon(true);
+        }
+
+        private void start() {
+            dispatcher.start();
+        }
+
+        private void offer(TaskEvent event) {
+            lock.lock();
+            try {
+                while (active && count == ring.length) {
+                    switch (policy) {
+                        case BLOCK -> notFull.awaitUninterruptibly();
+                        case DROP_NEWEST -> {
+                            dropped++;
+                            return;
+                        }
+                        case DROP_OLDEST -> {
+                            ring[head] = null;
+                            head = (head + 1) % ring.length;
+                            count--;
+                            dropped++;
+                        }
+                    }
+                }
+                if (!active) {
+                    return;
+                }
+                ring[(head + count) % ring.length] = event;
+                count++;
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<TaskEvent> take() {
+            lock.lock();
+            try {
+                while (active && count == 0) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                int size = Math.min(count, batchSize);
+                List<TaskEvent> batch = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    batch.add(ring[head]);
+                    ring[head] = null;
+                    head = (head + 1) % ring.length;
+                }
+                count -= size;
+                notFull.signalAll();
+                return batch;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void dispatch() {
+            while (true) {
+                List<TaskEvent> batch = take();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                try {
+                    listener.onEvents(batch);
+                } catch (RuntimeException e) {
+                    System.out.println("Ошибка обработчика событий " + name + ": " + e.getMessage());
+                }
+                lock.lock();
+                try {
+                    delivered += batch.size();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+
+        public long getDelivered() {
+            lock.lock();
+            try {
+                return delivered;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public long getDropped() {
+            lock.lock();
+            try {
+                return dropped;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void close() {
+            subscriptions.remove(this);
+            lock.lock();
+            try {
+                active = false;
+                notEmpty.signalAll();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (Thread.currentThread() != dispatcher) {
+                try {
+                    dispatcher.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package events;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface TaskEventListener {
+    void onEvents(List<TaskEvent> batch);
+}
@@ -0,0 +1,79 @@
+package models;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+
+public class DeadlineScheduler {
+    private final Clock clock;
+
+    private final TreeMap<Long, Set<Integer>> byDay = new TreeMap<>();
+    private final Map<Integer, Long> dayById = new HashMap<>();
+    private final Set<Integer> fired = new LinkedHashSet<>();
+
+    public DeadlineScheduler(Clock clock) {
+        this.clock = clock;
+    }
+
+    public synchronized void track(Task task) {
+        untrack(task.getId());
+        if (task.getStatus() == Task.Status.DONE || task.isDeleted()) {
+            return;
+        }
+        if (task.isOverdue()) {
+            fired.add(task.getId());
+            return;
+        }
+        long day = task.getCompletionDate().toEpochDay();
+        byDay.computeIfAbsent(day, d -> new LinkedHashSet<>()).add(task.getId());
+        dayById.put(task.getId(), day);
+    }
+
+    public synchronized void untrack(int taskId) {
+        fired.remove(taskId);
+        Long day = dayById.remove(taskId);
+        if (day == null) {
+            return;
+        }
+        Set<Integer> bucket = byDay.get(day);
+        bucket.remove(taskId);
+        if (bucket.isEmpty()) {
+            byDay.remove(day);
+        }
+    }
+
+    public synchronized List<Integer> advance() {
+        long today = today();
+        List<Integer> newlyFired = new ArrayList<>();
+
+        while (!byDay.isEmpty() && byDay.firstKey() < today) {
+            for (int id : byDay.pollFirstEntry().getValue()) {
+                dayById.remove(id);
+                fired.add(id);
+                newlyFired.add(id);
+            }
+        }
+        return newlyFired;
+    }
+
+    public synchronized List<Integer> overdue() {
+        return new ArrayList<>(fired);
+    }
+
+    public synchronized List<Integer> dueWithin(int days) {
+        long today = today();
+        List<Integer> due = new ArrayList<>();
+        byDay.subMap(today, true, today + days, true)
+                .values()
+                .forEach(due::addAll);
+        return due;
+    }
+
+    public synchronized int pending() {
+        return dayById.size();
+    }
+
+    private long today() {
+        return LocalDate.now(clock).toEpochDay();
+    }
+}
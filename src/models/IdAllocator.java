@@ -0,0 +1,23 @@
+package models;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class IdAllocator {
+    private final AtomicInteger next;
+
+    public IdAllocator(int next) {
+        this.next = new AtomicInteger(Math.max(next, 1));
+    }
+
+    public int next() {
+        return next.getAndIncrement();
+    }
+
+    public int peek() {
+        return next.get();
+    }
+
+    public void reserve(int id) {
+        next.accumulateAndGet(id + 1, Math::max);
+    }
+}
@@ -1,5 +1,6 @@
 package models;
 
+import utils.CompactText;
 import utils.LocalizedLabels;
 
 import java.time.LocalDate;
@@ -11,46 +12,66 @@ public class Task {
     public enum Status { NEW, IN_PROGRESS, DONE }
     public enum Priority { LOW, MEDIUM, HIGH }
 
-    private static int nextId = 1;
     public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
 
     private Integer rating;
 
     private transient TaskState state;
+    private boolean overdue = false;
     private boolean deleted = false;
 
     private int id;
-    private String title;
-    private String description;
+    private CompactText title;
+    private CompactText description;
     private LocalDate completionDate;
     private LocalDate createDate;
     private Priority priority;
     private Status status;
 
-    public Task(String title, String description, LocalDate completionDate, Priority priority) {
-        this.id = nextId++;
-        this.title = title;
-        this.description = description;
+    public Task(int id, String title, String description, LocalDate completionDate,
+                LocalDate createDate, Priority priority, Status status) {
+        this.id = id;
+        this.title = CompactText.intern(title);
+        this.description = CompactText.of(description);
         this.completionDate = completionDate;
-        this.createDate = LocalDate.now();
+        this.createDate = createDate;
         this.priority = priority;
-        this.status = Status.NEW;
-        this.state = new NewState();
+        this.status = status;
+        this.state = resolveState(status);
     }
 
-    public Task(int id, String title, String description, LocalDate completionDate,
-                LocalDate createDate, Priority priority, Status status) {
+    Task(int id, CompactText title, CompactText description, LocalDate completionDate, LocalDate createDate,
+         Priority priority, Status status, Integer rating, boolean overdue) {
         this.id = id;
-        nextId = Math.max(nextId, id + 1);
         this.title = title;
         this.description = description;
         this.completionDate = completionDate;
         this.createDate = createDate;
         this.priority = priority;
         this.status = status;
+        this.rating = rating;
+        this.overdue = overdue;
         this.state = resolveState(status);
     }
 
+    private Task(Task source) {
+        this.id = source.id;
+        this.title = source.title;
+        this.description = source.description;
+        this.completionDate = source.completionDate;
+        this.createDate = source.createDate;
+        this.priority = source.priority;
+        this.status = source.status;
+        this.rating = source.rating;
+        this.overdue = source.overdue;
+        this.deleted = source.deleted;
+        this.state = resolveState(status);
+    }
+
+    public Task copy() {
+        return new Task(this);
+    }
+
     private TaskState resolveState(Status status) {
         return switch (status) {
             case NEW -> new NewState();
@@ -71,7 +92,15 @@ public class Task {
     }
 
     public boolean isOverdue() {
-        return LocalDate.now().isAfter(completionDate) && status != Status.DONE;
+        return overdue && status != Status.DONE;
+    }
+
+    public void internTitle() {
+        this.title = CompactText.intern(title);
+    }
+
+    public void markOverdue() {
+        this.overdue = true;
     }
 
     @Override
@@ -124,15 +153,17 @@ public class Task {
     }
 
     public int getId() { return id; }
-    public String getTitle() { return title; }
-    public String getDescription() { return description; }
+    public String getTitle() { return title == null ? null : title.toString(); }
+    public String getDescription() { return description == null ? null : description.toString(); }
+    public CompactText getTitleText() { return title; }
+    public CompactText getDescriptionText() { return description; }
     public LocalDate getCompletionDate() { return completionDate; }
     public LocalDate getCreateDate() { return createDate; }
     public Priority getPriority() { return priority; }
     public Status getStatus() { return status; }
 
     public void setDescription(String description) {
-        if (status == Status.NEW) this.description = description;
+        if (status == Status.NEW) this.description = CompactText.of(description);
     }
     public void setStatus(Status status) { this.status = status; }
 
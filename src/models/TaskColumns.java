@@ -0,0 +1,307 @@
+package models;
+
+import utils.CompactText;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+public class TaskColumns {
+    public enum SortKey { PRIORITY, CREATE_DATE, TITLE, COMPLETION_DATE }
+
+    private static final byte NO_RATING = 0;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Task.Priority[] PRIORITIES = Task.Priority.values();
+    private static final Task.Status[] STATUSES = Task.Status.values();
+
+    private int size;
+    private int[] id;
+    private int[] completionEpochDay;
+    private int[] createEpochDay;
+    private byte[] priority;
+    private byte[] status;
+    private byte[] rating;
+    private boolean[] overdue;
+
+    private CompactText[] title;
+    private CompactText[] description;
+
+    public TaskColumns() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public TaskColumns(int capacity) {
+        int initial = Math.max(capacity, 1);
+        id = new int[initial];
+        completionEpochDay = new int[initial];
+        createEpochDay = new int[initial];
+        priority = new byte[initial];
+        status = new byte[initial];
+        rating = new byte[initial];
+        overdue = new boolean[initial];
+        title = new CompactText[initial];
+        description = new CompactText[initial];
+    }
+
+    public static TaskColumns of(List<Task> tasks) {
+        TaskColumns columns = new TaskColumns(tasks.size());
+        tasks.forEach(columns::add);
+        return columns;
+    }
+
+    public TaskColumns copy() {
+        TaskColumns copy = new TaskColumns(id.length);
+        copy.size = size;
+        System.arraycopy(id, 0, copy.id, 0, size);
+        System.arraycopy(completionEpochDay, 0, copy.completionEpochDay, 0, size);
+        System.arraycopy(createEpochDay, 0, copy.createEpochDay, 0, size);
+        System.arraycopy(priority, 0, copy.priority, 0, size);
+        System.arraycopy(status, 0, copy.status, 0, size);
+        System.arraycopy(rating, 0, copy.rating, 0, size);
+        System.arraycopy(overdue, 0, copy.overdue, 0, size);
+        System.arraycopy(title, 0, copy.title, 0, size);
+        System.arraycopy(description, 0, copy.description, 0, size);
+        return copy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(Task task) {
+        if (size == id.length) {
+            grow();
+        }
+        write(size++, task);
+    }
+
+    public void update(Task task) {
+        int row = indexOf(task.getId());
+        if (row < 0) {
+            throw new IllegalArgumentException("Задача не найдена: " + task.getId());
+        }
+        write(row, task);
+    }
+
+    public void set(int row, Task task) {
+        write(row, task);
+    }
+
+    public void remove(int taskId) {
+        int row = indexOf(taskId);
+        if (row < 0) {
+            return;
+        }
+        int tail = size - row - 1;
+        System.arraycopy(id, row + 1, id, row, tail);
+        System.arraycopy(completionEpochDay, row + 1, completionEpochDay, row, tail);
+        System.arraycopy(createEpochDay, row + 1, createEpochDay, row, tail);
+        System.arraycopy(priority, row + 1, priority, row, tail);
+        System.arraycopy(status, row + 1, status, row, tail);
+        System.arraycopy(rating, row + 1, rating, row, tail);
+        System.arraycopy(overdue, row + 1, overdue, row, tail);
+        System.arraycopy(title, row + 1, title, row, tail);
+        System.arraycopy(description, row + 1, description, row, tail);
+        size--;
+        title[size] = null;
+        description[size] = null;
+    }
+
+    public int indexOf(int taskId) {
+        int[] ids = id;
+        for (int i = 0, n = size; i < n; i++) {
+            if (ids[i] == taskId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public Task get(int row) {
+        return new Task(id[row], title[row], description[row],
+                LocalDate.ofEpochDay(completionEpochDay[row]), LocalDate.ofEpochDay(createEpochDay[row]),
+                PRIORITIES[priority[row]], STATUSES[status[row]],
+                rating[row] == NO_RATING ? null : (int) rating[row], overdue[row]);
+    }
+
+    public int maxId() {
+        int max = 0;
+        int[] ids = id;
+        for (int i = 0, n = size; i < n; i++) {
+            max = Math.max(max, ids[i]);
+        }
+        return max;
+    }
+
+    public int[] all() {
+        int[] result = new int[size];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    public int[] byPriority(Task.Priority value) {
+        byte wanted = (byte) value.ordinal();
+        byte[] column = priority;
+        int[] hits = new int[size];
+        int count = 0;
+        for (int i = 0, n = size; i < n; i++) {
+            if (column[i] == wanted) {
+                hits[count++] = i;
+            }
+        }
+        return Arrays.copyOf(hits, count);
+    }
+
+    public int[] byStatus(Task.Status value) {
+        byte wanted = (byte) value.ordinal();
+        byte[] column = status;
+        int[] hits = new int[size];
+        int count = 0;
+        for (int i = 0, n = size; i < n; i++) {
+            if (column[i] == wanted) {
+                hits[count++] = i;
+            }
+        }
+        return Arrays.copyOf(hits, count);
+    }
+
+    public int[] withIds(Collection<Integer> wanted) {
+        int[] sortedIds = wanted.stream().mapToInt(Integer::intValue).sorted().toArray();
+        int[] ids = id;
+        int[] hits = new int[Math.min(size, sortedIds.length)];
+        int count = 0;
+        for (int i = 0, n = size; i < n && count < hits.length; i++) {
+            if (Arrays.binarySearch(sortedIds, ids[i]) >= 0) {
+                hits[count++] = i;
+            }
+        }
+        return Arrays.copyOf(hits, count);
+    }
+
+    public int[] idsBetween(int fromId, int toId) {
+        int[] ids = id;
+        int[] hits = new int[size];
+        int count = 0;
+        for (int i = 0, n = size; i < n; i++) {
+            int value = ids[i];
+            if (value >= fromId && value <= toId) {
+                hits[count++] = i;
+            }
+        }
+        return Arrays.copyOf(hits, count);
+    }
+
+    public int[] completionBetween(int fromEpochDay, int toEpochDay) {
+        int[] days = completionEpochDay;
+        int[] hits = new int[size];
+        int count = 0;
+        for (int i = 0, n = size; i < n; i++) {
+            int day = days[i];
+            if (day >= fromEpochDay && day <= toEpochDay) {
+                hits[count++] = i;
+            }
+        }
+        return Arrays.copyOf(hits, count);
+    }
+
+    public int[] containing(String keyword) {
+        CompactText.Needle needle = CompactText.needle(keyword);
+        int[] hits = new int[size];
+        int count = 0;
+        for (int i = 0, n = size; i < n; i++) {
+            if (title[i].folded().contains(needle)
+                    || description[i].folded().contains(needle)) {
+                hits[count++] = i;
+            }
+        }
+        return Arrays.copyOf(hits, count);
+    }
+
+    public int[] sort(int[] selection, SortKey key) {
+        if (key == SortKey.TITLE) {
+            return sortByTitle(selection);
+        }
+
+        long[] packed = new long[selection.length];
+        for (int i = 0; i < selection.length; i++) {
+            int row = selection[i];
+            long primary = switch (key) {
+                case PRIORITY -> PRIORITIES.length - 1 - priority[row];
+                case CREATE_DATE -> createEpochDay[row];
+                case COMPLETION_DATE -> completionEpochDay[row];
+                case TITLE -> 0;
+            };
+            packed[i] = (primary << 32) | i;
+        }
+        return unpack(selection, packed);
+    }
+
+    public List<Task> materialize(int[] selection) {
+        List<Task> result = new ArrayList<>(selection.length);
+        for (int row : selection) {
+            result.add(get(row));
+        }
+        return result;
+    }
+
+    private int[] sortByTitle(int[] selection) {
+        String[] keys = new String[selection.length];
+        for (int i = 0; i < selection.length; i++) {
+            keys[i] = title[selection[i]].toString();
+        }
+
+        String[] distinct = keys.clone();
+        Arrays.sort(distinct);
+        int unique = 0;
+        for (String key : distinct) {
+            if (unique == 0 || !key.equals(distinct[unique - 1])) {
+                distinct[unique++] = key;
+            }
+        }
+
+        long[] packed = new long[selection.length];
+        for (int i = 0; i < selection.length; i++) {
+            long rank = Arrays.binarySearch(distinct, 0, unique, keys[i]);
+            packed[i] = (rank << 32) | i;
+        }
+        return unpack(selection, packed);
+    }
+
+    private static int[] unpack(int[] selection, long[] packed) {
+        Arrays.sort(packed);
+        int[] sorted = new int[selection.length];
+        for (int i = 0; i < packed.length; i++) {
+            sorted[i] = selection[(int) packed[i]];
+        }
+        return sorted;
+    }
+
+    private void write(int row, Task task) {
+        id[row] = task.getId();
+        completionEpochDay[row] = (int) task.getCompletionDate().toEpochDay();
+        createEpochDay[row] = (int) task.getCreateDate().toEpochDay();
+        priority[row] = (byte) task.getPriority().ordinal();
+        status[row] = (byte) task.getStatus().ordinal();
+        rating[row] = task.getRating() == null ? NO_RATING : task.getRating().byteValue();
+        overdue[row] = task.isOverdue();
+        title[row] = task.getTitleText();
+        description[row] = task.getDescriptionText();
+    }
+
+    private void grow() {
+        int capacity = id.length * 2;
+        id = Arrays.copyOf(id, capacity);
+        completionEpochDay = Arrays.copyOf(completionEpochDay, capacity);
+        createEpochDay = Arrays.copyOf(createEpochDay, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        status = Arrays.copyOf(status, capacity);
+        rating = Arrays.copyOf(rating, capacity);
+        overdue = Arrays.copyOf(overdue, capacity);
+        title = Arrays.copyOf(title, capacity);
+        description = Arrays.copyOf(description, capacity);
+    }
+}
@@ -1,20 +1,28 @@
 package models;
 
-import utils.FileUtil;
+import utils.ShardedTaskStore;
 import exceptions.InvalidMenuChoiceException;
 import exceptions.InvalidStringInputException;
 import utils.LocalizedLabels;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
 
 public class TaskManager {
-    private List<Task> tasks = new ArrayList<>();
-    private Comparator<Task> currentComparator = Comparator.comparing(Task::getPriority).reversed();
+    private final TaskService service;
     private Scanner scanner = new Scanner(System.in);
 
+    public TaskManager() {
+        this(ShardedTaskStore.DEFAULT_TENANT);
+    }
+
+    public TaskManager(String tenant) {
+        this.service = new TaskService(new ShardedTaskStore(tenant), Clock.systemDefaultZone());
+    }
+
     private void showMenu() {
         System.out.println("Меню");
         System.out.println("1.Показать все задачи");
@@ -33,6 +41,7 @@ public class TaskManager {
         loadTasks();
 
         while (true) {
+            notifyOverdue();
             showMenu();
 
             int choice = enterInt("Выберите действие: ", 1, 10);
@@ -49,6 +58,7 @@ public class TaskManager {
                 case 9 -> rateTask();
                 case 10 -> {
                     saveTasks();
+                    service.close();
                     return;
                 }
             }
@@ -93,7 +103,7 @@ public class TaskManager {
                 String input = scanner.nextLine();
                 LocalDate date = LocalDate.parse(input, DateTimeFormatter.ofPattern("dd.MM.yyyy"));
 
-                if (date.isBefore(LocalDate.now())) {
+                if (date.isBefore(service.today())) {
                     throw new IllegalArgumentException("Ошибка: дата в прошлом!\n");
                 }
                 return date;
@@ -172,23 +182,35 @@ public class TaskManager {
     }
 
     private List<Task> getSortedTasks() {
-        return tasks.stream()
-                .sorted(currentComparator)
-                .toList();
+        return service.sorted();
+    }
+
+    private Optional<Task> findTask(int id) {
+        return service.find(id);
     }
 
     private void loadTasks() {
-        tasks = FileUtil.readTasks();
-        if (tasks.isEmpty()) {
+        List<Task> loaded = service.load();
+        if (loaded.isEmpty()) {
             System.out.println("Файл задач пуст или все задачи некорректны!\nСоздайте новую задачу.\n");
             addTask();
         } else {
-            System.out.println("Загружено задач: " + tasks.size());
+            System.out.println("Загружено задач (" + service.getTenant() + "): " + loaded.size());
         }
     }
 
+    private void notifyOverdue() {
+        List<Task> overdue = service.advanceDeadlines();
+        if (overdue.isEmpty()) {
+            return;
+        }
+        overdue.forEach(task ->
+                System.out.println("Задача просрочена: ID " + task.getId() + " | " + task.getTitle()));
+        saveTasks();
+    }
+
     private void saveTasks() {
-        FileUtil.writeTasks(tasks);
+        service.save();
     }
 
     private void displayTasks(List<Task> taskList) {
@@ -218,11 +240,11 @@ public class TaskManager {
 
         Task.Priority priority = enterPriority();
 
-        tasks.add(new Task(title, desc, date, priority));
+        service.addTask(title, desc, date, priority);
         saveTasks();
         System.out.println("Задача добавлена!\nОбновленный список задач: ");
 
-        currentComparator = Comparator.comparing(Task::getPriority).reversed();
+        service.setSort(TaskColumns.SortKey.PRIORITY);
         displayTasks();
     }
 
@@ -230,12 +252,9 @@ public class TaskManager {
         displayTasks();
         int id = enterInt("Введите ID задачи: ", 1, getMaxId());
 
-        tasks.stream()
-                .filter(t -> t.getId() == id)
-                .findFirst()
-                .ifPresentOrElse(task -> {
+        findTask(id).ifPresentOrElse(task -> {
                     try {
-                        task.changeStatus();
+                        service.changeStatus(id);
                         saveTasks();
                         System.out.println("Статус изменён");
                     } catch (IllegalStateException e) {
@@ -248,13 +267,10 @@ public class TaskManager {
         displayTasks();
         int id = enterInt("Введите ID задачи: ", 1, getMaxId());
 
-        tasks.stream()
-                .filter(t -> t.getId() == id)
-                .findFirst()
-                .ifPresentOrElse(task -> {
+        findTask(id).ifPresentOrElse(task -> {
                     try {
                         System.out.print("Новое описание: ");
-                        task.changeDescriptionState(scanner.nextLine());
+                        service.changeDescription(id, scanner.nextLine());
                         saveTasks();
                         System.out.println("Описание обновлено");
                     } catch (IllegalStateException e) {
@@ -267,13 +283,9 @@ public class TaskManager {
         displayTasks();
         int id = enterInt("Введите ID задачи: ", 1, getMaxId());
 
-        tasks.stream()
-                .filter(t -> t.getId() == id)
-                .findFirst()
-                .ifPresentOrElse(task -> {
+        findTask(id).ifPresentOrElse(task -> {
                     try {
-                        task.deleteState();
-                        tasks.removeIf(Task::isDeleted);
+                        service.deleteTask(id);
                         saveTasks();
                         System.out.println("Задача удалена");
                     } catch (IllegalStateException e) {
@@ -286,13 +298,10 @@ public class TaskManager {
         displayTasks();
         int id = enterInt("ID задачи: ", 1, getMaxId());
 
-        tasks.stream()
-                .filter(t -> t.getId() == id)
-                .findFirst()
-                .ifPresentOrElse(task -> {
+        findTask(id).ifPresentOrElse(task -> {
                     try {
                         int rating = enterInt("Оценка (1-5): ", 1, 5);
-                        task.rate(rating);
+                        service.rateTask(id, rating);
                         saveTasks();
                         System.out.println("Оценка сохранена");
                     } catch (Exception e) {
@@ -302,10 +311,7 @@ public class TaskManager {
     }
 
     private int getMaxId() {
-        return tasks.stream()
-                .mapToInt(Task::getId)
-                .max()
-                .orElse(0);
+        return service.maxId();
     }
 
     private void sortTasks() {
@@ -316,12 +322,12 @@ public class TaskManager {
 
         int choice = enterInt("Выберите сортировку: ", 1, 4);
 
-        currentComparator = switch (choice) {
-            case 2 -> Comparator.comparing(Task::getCreateDate);
-            case 3 -> Comparator.comparing(Task::getTitle);
-            case 4 -> Comparator.comparing(Task::getCompletionDate);
-            default -> Comparator.comparing(Task::getPriority).reversed();
-        };
+        service.setSort(switch (choice) {
+            case 2 -> TaskColumns.SortKey.CREATE_DATE;
+            case 3 -> TaskColumns.SortKey.TITLE;
+            case 4 -> TaskColumns.SortKey.COMPLETION_DATE;
+            default -> TaskColumns.SortKey.PRIORITY;
+        });
 
         System.out.println("Сортировка изменена!");
         displayTasks();
@@ -339,10 +345,7 @@ public class TaskManager {
         switch (choice) {
             case 1 -> {
                 String keyword = enterString("Введите ключевое слово: ").toLowerCase();
-                results = tasks.stream()
-                        .filter(task -> task.getTitle().toLowerCase().contains(keyword)
-                                || task.getDescription().toLowerCase().contains(keyword))
-                        .toList();
+                results = service.query(snapshot -> snapshot.containing(keyword));
                 if (results.isEmpty()) {
                     System.out.println("Нет задач, содержащих это слово!");
                 }
@@ -355,34 +358,27 @@ public class TaskManager {
                 switch (dateChoice) {
                     case 1 -> {
                         LocalDate date = enterAnyDate("Введите дату (дд.мм.гггг): ");
-                        results = tasks.stream()
-                                .filter(task -> task.getCompletionDate().isEqual(date))
-                                .toList();
+                        int day = (int) date.toEpochDay();
+                        results = service.query(snapshot -> snapshot.completionBetween(day, day));
                     }
                     case 2 -> {
                         LocalDate start = enterAnyDate("Введите начальную дату (дд.мм.гггг): ");
                         LocalDate end = enterAnyDate("Введите конечную дату (дд.мм.гггг): ");
-                        results = tasks.stream()
-                                .filter(task -> !task.getCompletionDate().isBefore(start) &&
-                                        !task.getCompletionDate().isAfter(end))
-                                .toList();
+                        results = service.query(snapshot -> snapshot.completionBetween((int) start.toEpochDay(), (int) end.toEpochDay()));
                     }
                     case 3 -> {
                         int month = enterInt("Введите месяц (1-12): ", 1, 12);
                         int year = enterInt("Введите год: ", 1900, 3000);
-                        results = tasks.stream()
-                                .filter(t -> t.getCompletionDate().getMonthValue() == month &&
-                                        t.getCompletionDate().getYear() == year)
-                                .toList();
+                        LocalDate first = LocalDate.of(year, month, 1);
+                        LocalDate last = first.withDayOfMonth(first.lengthOfMonth());
+                        results = service.query(snapshot -> snapshot.completionBetween((int) first.toEpochDay(), (int) last.toEpochDay()));
                     }
                 }
                 if (results.isEmpty()) System.out.println("Задачи за выбранный период не найдены!");
             }
             case 3 -> {
                 Task.Priority priority = enterPriority();
-                results = tasks.stream()
-                        .filter(task -> task.getPriority() == priority)
-                        .toList();
+                results = service.query(snapshot -> snapshot.byPriority(priority));
                 if (results.isEmpty()) {
                     System.out.println("Нет задач с таким приоритетом!");
                 }
@@ -390,27 +386,24 @@ public class TaskManager {
         }
         if (!results.isEmpty()) {
             System.out.println("Найденные задачи:");
-            displayTasks(results.stream()
-                    .sorted(currentComparator)
-                    .toList());
+            displayTasks(results);
         }
     }
 
     private void filterTasks() {
         System.out.println("\t1. По приоритету " +
                 "\n\t2. По статусу " +
-                "\n\t3. Просроченные");
+                "\n\t3. Просроченные" +
+                "\n\t4. Срок в ближайшие дни");
 
-        int choice = enterInt("Выберите фильтр: ", 1, 3);
+        int choice = enterInt("Выберите фильтр: ", 1, 4);
 
         List<Task> filtered = new ArrayList<>();
 
         switch (choice) {
             case 1 -> {
                 Task.Priority priority = enterPriority();
-                filtered = tasks.stream()
-                        .filter(t -> t.getPriority() == priority)
-                        .toList();
+                filtered = service.query(snapshot -> snapshot.byPriority(priority));
                 if (filtered.isEmpty()) {
                     System.out.println("Нет задач с таким приоритетом!");
                     return;
@@ -418,29 +411,33 @@ public class TaskManager {
             }
             case 2 -> {
                 Task.Status status = enterStatus();
-                filtered = tasks.stream()
-                        .filter(t -> t.getStatus() == status)
-                        .toList();
+                filtered = service.query(snapshot -> snapshot.byStatus(status));
                 if (filtered.isEmpty()) {
                     System.out.println("Нет задач с таким статусом!");
                     return;
                 }
             }
             case 3 -> {
-                filtered = tasks.stream()
-                        .filter(Task::isOverdue)
-                        .toList();
+                filtered = service.overdue();
                 if (filtered.isEmpty()) {
                     System.out.println("Нет просроченных задач!");
                     return;
                 }
             }
+            case 4 -> {
+                int days = enterInt("Количество дней: ", 0, 365);
+                List<Task> due = service.dueWithin(days);
+                if (due.isEmpty()) {
+                    System.out.println("Нет задач со сроком в ближайшие " + days + " дн.!");
+                    return;
+                }
+                displayTasks(due);
+                return;
+            }
             default -> System.out.println("Неверный выбор фильтра");
         };
 
-        displayTasks(filtered.stream()
-                .sorted(currentComparator)
-                .toList());
+        displayTasks(filtered);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package models;
+
+import events.TaskEvent;
+import events.TaskEventBus;
+import utils.ShardedTaskStore;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class TaskService implements AutoCloseable {
+    private final VersionedTaskStore tasks = new VersionedTaskStore();
+    private final TaskEventBus events = new TaskEventBus();
+    private final Clock clock;
+    private final DeadlineScheduler deadlines;
+    private final ShardedTaskStore store;
+
+    public TaskService(ShardedTaskStore store, Clock clock) {
+        this.store = store;
+        this.clock = clock;
+        this.deadlines = new DeadlineScheduler(clock);
+    }
+
+    public List<Task> load() {
+        List<Task> loaded = store.loadAll();
+        tasks.load(loaded);
+        loaded.forEach(deadlines::track);
+        return loaded;
+    }
+
+    public String getTenant() {
+        return store.getTenant();
+    }
+
+    public TaskEventBus getEvents() {
+        return events;
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    public TaskSnapshot snapshot() {
+        return tasks.snapshot();
+    }
+
+    public List<Task> sorted() {
+        try (TaskSnapshot snapshot = tasks.snapshot()) {
+            return snapshot.sorted();
+        }
+    }
+
+    public List<Task> query(Function<TaskSnapshot, int[]> filter) {
+        try (TaskSnapshot snapshot = tasks.snapshot()) {
+            return snapshot.sorted(filter.apply(snapshot));
+        }
+    }
+
+    public Optional<Task> find(int id) {
+        try (TaskSnapshot snapshot = tasks.snapshot()) {
+            return snapshot.find(id);
+        }
+    }
+
+    public int maxId() {
+        try (TaskSnapshot snapshot = tasks.snapshot()) {
+            return snapshot.maxId();
+        }
+    }
+
+    public int nextId() {
+        return store.ids().peek();
+    }
+
+    public List<Task> dueWithin(int days) {
+        try (TaskSnapshot snapshot = tasks.snapshot()) {
+            return snapshot.sorted(snapshot.rowsOf(deadlines.dueWithin(days)));
+        }
+    }
+
+    public List<Task> overdue() {
+        try (TaskSnapshot snapshot = tasks.snapshot()) {
+            return snapshot.sorted(snapshot.rowsOf(deadlines.overdue()));
+        }
+    }
+
+    public List<Task> advanceDeadlines() {
+        List<Integer> fired = deadlines.advance();
+        if (fired.isEmpty()) {
+            return List.of();
+        }
+        List<Task> overdue = new ArrayList<>();
+        tasks.updateAll(fired, Task::markOverdue, changes -> changes.forEach(change -> {
+            writeThrough(change);
+            events.publish(new TaskEvent.Overdue(change.after().getId()));
+        })).forEach(change -> overdue.add(change.after()));
+        return overdue;
+    }
+
+    public Task addTask(String title, String description, LocalDate completionDate, Task.Priority priority) {
+        Task task = new Task(store.ids().next(), title, description, completionDate, today(),
+                priority, Task.Status.NEW);
+        tasks.add(task, added -> {
+            store.markDirty(added.getId());
+            deadlines.track(added);
+            events.publish(new TaskEvent.Created(added.getId()));
+        });
+        return task;
+    }
+
+    public Task changeStatus(int id) {
+        return commit(id, Task::changeStatus, change -> {
+            Task.Status to = change.after().getStatus();
+            if (to == Task.Status.DONE) {
+                deadlines.untrack(id);
+            }
+            events.publish(new TaskEvent.StatusChanged(id, change.before().getStatus(), to));
+        });
+    }
+
+    public Task changeDescription(int id, String description) {
+        return commit(id, t -> t.changeDescriptionState(description), change ->
+                events.publish(new TaskEvent.DescriptionChanged(id,
+                        change.before().getDescription(), change.after().getDescription())));
+    }
+
+    public void deleteTask(int id) {
+        commit(id, Task::deleteState, change -> {
+            deadlines.untrack(id);
+            events.publish(new TaskEvent.Deleted(id));
+        });
+    }
+
+    public Task rateTask(int id, int rating) {
+        return commit(id, t -> t.rate(rating), change -> events.publish(new TaskEvent.Rated(id, rating)));
+    }
+
+    public void setSort(TaskColumns.SortKey sort) {
+        tasks.setSort(sort);
+    }
+
+    public long save() {
+        return store.flush(tasks::snapshot);
+    }
+
+    @Override
+    public void close() {
+        events.close();
+    }
+
+    private Task commit(int id, Consumer<Task> mutation, Consumer<VersionedTaskStore.Change> onCommit) {
+        return tasks.update(id, mutation, change -> {
+                    writeThrough(change);
+                    onCommit.accept(change);
+                })
+                .map(VersionedTaskStore.Change::after)
+                .orElseThrow(() -> new IllegalStateException("Задача не найдена!"));
+    }
+
+    private void writeThrough(VersionedTaskStore.Change change) {
+        store.markDirty(change.after().getId());
+    }
+}
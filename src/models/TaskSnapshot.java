@@ -0,0 +1,82 @@
+package models;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class TaskSnapshot implements AutoCloseable {
+    private final VersionedTaskStore.Version version;
+    private final Runnable release;
+    private boolean closed = false;
+
+    TaskSnapshot(VersionedTaskStore.Version version, Runnable release) {
+        this.version = version;
+        this.release = release;
+    }
+
+    public long getVersion() {
+        return version.number();
+    }
+
+    public TaskColumns.SortKey getSort() {
+        return version.sort();
+    }
+
+    public int size() {
+        return version.columns().size();
+    }
+
+    public int maxId() {
+        return version.columns().maxId();
+    }
+
+    public Optional<Task> find(int id) {
+        int row = version.columns().indexOf(id);
+        return row < 0 ? Optional.empty() : Optional.of(version.columns().get(row));
+    }
+
+    public List<Task> sorted() {
+        return sorted(version.columns().all());
+    }
+
+    public List<Task> sorted(int[] rows) {
+        TaskColumns columns = version.columns();
+        return columns.materialize(columns.sort(rows, version.sort()));
+    }
+
+    public int[] byPriority(Task.Priority priority) {
+        return version.columns().byPriority(priority);
+    }
+
+    public int[] byStatus(Task.Status status) {
+        return version.columns().byStatus(status);
+    }
+
+    public int[] rowsOf(Collection<Integer> ids) {
+        return version.columns().withIds(ids);
+    }
+
+    public int[] idsBetween(int fromId, int toId) {
+        return version.columns().idsBetween(fromId, toId);
+    }
+
+    public List<Task> rows(int[] rows) {
+        return version.columns().materialize(rows);
+    }
+
+    public int[] completionBetween(int fromEpochDay, int toEpochDay) {
+        return version.columns().completionBetween(fromEpochDay, toEpochDay);
+    }
+
+    public int[] containing(String keyword) {
+        return version.columns().containing(keyword);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            release.run();
+        }
+    }
+}
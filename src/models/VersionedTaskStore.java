@@ -0,0 +1,151 @@
+package models;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class VersionedTaskStore {
+    private static final int RECLAIMED = -1;
+
+    record Version(long number, TaskColumns columns, TaskColumns.SortKey sort, AtomicInteger readers) {
+        Version(long number, TaskColumns columns, TaskColumns.SortKey sort) {
+            this(number, columns, sort, new AtomicInteger());
+        }
+    }
+
+    public record Change(Task before, Task after) {
+    }
+
+    private final Object writeLock = new Object();
+    private final ConcurrentSkipListMap<Long, Version> live = new ConcurrentSkipListMap<>();
+    private volatile Version current;
+
+    public VersionedTaskStore() {
+        this(List.of());
+    }
+
+    public VersionedTaskStore(List<Task> tasks) {
+        current = new Version(1, TaskColumns.of(tasks), TaskColumns.SortKey.PRIORITY);
+        live.put(current.number(), current);
+    }
+
+    public TaskSnapshot snapshot() {
+        while (true) {
+            Version version = current;
+            int readers = version.readers().get();
+            if (readers != RECLAIMED && version.readers().compareAndSet(readers, readers + 1)) {
+                return new TaskSnapshot(version, () -> release(version));
+            }
+        }
+    }
+
+    public void load(List<Task> tasks) {
+        synchronized (writeLock) {
+            publish(TaskColumns.of(tasks), current.sort());
+        }
+    }
+
+    public void add(Task task) {
+        add(task, added -> {
+        });
+    }
+
+    public void add(Task task, Consumer<Task> onCommit) {
+        synchronized (writeLock) {
+            TaskColumns columns = current.columns().copy();
+            columns.add(task);
+            publish(columns, current.sort());
+            onCommit.accept(task);
+        }
+    }
+
+    public Optional<Change> update(int id, Consumer<Task> mutation) {
+        return update(id, mutation, change -> {
+        });
+    }
+
+    public Optional<Change> update(int id, Consumer<Task> mutation, Consumer<Change> onCommit) {
+        synchronized (writeLock) {
+            int row = current.columns().indexOf(id);
+            if (row < 0) {
+                return Optional.empty();
+            }
+
+            Task before = current.columns().get(row);
+            Task after = before.copy();
+            mutation.accept(after);
+
+            TaskColumns columns = current.columns().copy();
+            if (after.isDeleted()) {
+                columns.remove(id);
+            } else {
+                columns.update(after);
+            }
+            Change change = new Change(before, after);
+            publish(columns, current.sort());
+            onCommit.accept(change);
+            return Optional.of(change);
+        }
+    }
+
+    public List<Change> updateAll(Collection<Integer> ids, Consumer<Task> mutation, Consumer<List<Change>> onCommit) {
+        synchronized (writeLock) {
+            TaskColumns columns = current.columns().copy();
+            List<Change> changes = new ArrayList<>();
+            for (int row : columns.withIds(ids)) {
+                Task before = columns.get(row);
+                Task after = before.copy();
+                mutation.accept(after);
+                columns.set(row, after);
+                changes.add(new Change(before, after));
+            }
+            if (changes.isEmpty()) {
+                return changes;
+            }
+            publish(columns, current.sort());
+            onCommit.accept(changes);
+            return changes;
+        }
+    }
+
+    public void setSort(TaskColumns.SortKey sort) {
+        synchronized (writeLock) {
+            publish(current.columns(), sort);
+        }
+    }
+
+    public long getVersion() {
+        return current.number();
+    }
+
+    public int liveVersions() {
+        return live.size();
+    }
+
+    public long oldestLiveVersion() {
+        return live.firstKey();
+    }
+
+    private void publish(TaskColumns columns, TaskColumns.SortKey sort) {
+        Version previous = current;
+        current = new Version(previous.number() + 1, columns, sort);
+        live.put(current.number(), current);
+        tryReclaim(previous);
+    }
+
+    private void release(Version version) {
+        if (version.readers().decrementAndGet() == 0 && version != current) {
+            tryReclaim(version);
+        }
+    }
+
+    private void tryReclaim(Version version) {
+        if (version.readers().compareAndSet(0, RECLAIMED)) {
+            live.remove(version.number());
+        }
+    }
+}
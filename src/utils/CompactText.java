@@ -0,0 +1,155 @@
+package utils;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+public final class CompactText {
+    private static final Charset SINGLE_BYTE = Charset.forName("windows-1251");
+    private static final Map<CompactText, WeakReference<CompactText>> POOL = new WeakHashMap<>();
+
+    private final byte[] bytes;
+    private final boolean singleByte;
+    private final int hash;
+    private volatile CompactText folded;
+
+    private CompactText(byte[] bytes, boolean singleByte) {
+        this.bytes = bytes;
+        this.singleByte = singleByte;
+        this.hash = 31 * Arrays.hashCode(bytes) + (singleByte ? 1 : 0);
+    }
+
+    public static CompactText of(String text) {
+        if (text == null) {
+            return null;
+        }
+        CompactText compact = encode(text);
+        String lower = text.toLowerCase();
+        compact.folded = lower.equals(text) ? compact : encode(lower).selfFolded();
+        return compact;
+    }
+
+    public static synchronized CompactText intern(String text) {
+        if (text == null) {
+            return null;
+        }
+        CompactText compact = pooled(encode(text));
+        if (compact.folded == null) {
+            String lower = text.toLowerCase();
+            compact.folded = lower.equals(text) ? compact : pooled(encode(lower)).selfFolded();
+        }
+        return compact;
+    }
+
+    public static synchronized CompactText intern(CompactText text) {
+        return text == null ? null : pooled(text);
+    }
+
+    public static Needle needle(String foldedKeyword) {
+        byte[] single = encodeSingleByte(foldedKeyword);
+        return new Needle(single, foldedKeyword.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public CompactText folded() {
+        return folded;
+    }
+
+    public boolean contains(Needle needle) {
+        byte[] pattern = singleByte ? needle.singleByte : needle.utf8;
+        return pattern != null && indexOf(bytes, pattern) >= 0;
+    }
+
+    public int byteSize() {
+        return bytes.length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, singleByte ? SINGLE_BYTE : StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CompactText other)) return false;
+        return singleByte == other.singleByte && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    public static final class Needle {
+        private final byte[] singleByte;
+        private final byte[] utf8;
+
+        private Needle(byte[] singleByte, byte[] utf8) {
+            this.singleByte = singleByte;
+            this.utf8 = utf8;
+        }
+    }
+
+    private static CompactText encode(String text) {
+        byte[] single = encodeSingleByte(text);
+        return single != null
+                ? new CompactText(single, true)
+                : new CompactText(text.getBytes(StandardCharsets.UTF_8), false);
+    }
+
+    private static byte[] encodeSingleByte(String text) {
+        CharsetEncoder encoder = SINGLE_BYTE.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        try {
+            ByteBuffer buffer = encoder.encode(CharBuffer.wrap(text));
+            return Arrays.copyOf(buffer.array(), buffer.limit());
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    private CompactText selfFolded() {
+        folded = this;
+        return this;
+    }
+
+    private static CompactText pooled(CompactText text) {
+        WeakReference<CompactText> ref = POOL.get(text);
+        CompactText pooled = ref == null ? null : ref.get();
+        if (pooled != null) {
+            return pooled;
+        }
+        POOL.put(text, new WeakReference<>(text));
+        return text;
+    }
+
+    private static int indexOf(byte[] source, byte[] pattern) {
+        if (pattern.length == 0) {
+            return 0;
+        }
+        byte first = pattern[0];
+        int last = source.length - pattern.length;
+        for (int i = 0; i <= last; i++) {
+            if (source[i] != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < pattern.length && source[i + j] == pattern[j]) {
+                j++;
+            }
+            if (j == pattern.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
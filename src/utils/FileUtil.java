@@ -6,6 +6,7 @@ import com.google.gson.JsonSyntaxException;
 import models.Task;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -26,6 +27,12 @@ public class FileUtil {
             .registerTypeAdapter(LocalDate.class, (com.google.gson.JsonDeserializer<LocalDate>) (json, typeOfT, context) ->
                     LocalDate.parse(json.getAsString(), DateTimeFormatter.ofPattern("dd.MM.yyyy"))
             )
+            .registerTypeAdapter(CompactText.class, (com.google.gson.JsonSerializer<CompactText>) (src, typeOfSrc, context) ->
+                    new com.google.gson.JsonPrimitive(src.toString())
+            )
+            .registerTypeAdapter(CompactText.class, (com.google.gson.JsonDeserializer<CompactText>) (json, typeOfT, context) ->
+                    CompactText.of(json.getAsString())
+            )
             .create();
 
     private static final Path PATH = Paths.get("src/data/tasks.json");
@@ -43,20 +50,33 @@ public class FileUtil {
         return "";
     }
 
-    private static void writeToFile(Path path, String json) {
-        byte[] strToBytes = json.getBytes();
+    private static long writeToFile(Path path, String json) {
+        byte[] strToBytes = json.getBytes(StandardCharsets.UTF_8);
 
         try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
             Files.write(path, strToBytes);
+            return strToBytes.length;
         } catch (IOException e) {
-            System.out.println("Ошибка записи в файл!");
+            System.out.println("Ошибка записи в файл: " + path);
         }
+        return -1;
+    }
+
+    public static boolean legacyFileExists() {
+        return Files.exists(PATH);
     }
 
     public static List<Task> readTasks() {
+        return readTasks(PATH);
+    }
+
+    public static List<Task> readTasks(Path path) {
         Task[] tasksArr;
         try {
-            tasksArr = GSON.fromJson(readFile(PATH), Task[].class);
+            tasksArr = GSON.fromJson(readFile(path), Task[].class);
         } catch (JsonSyntaxException e) {
             System.out.println("Ошибка формата JSON!");
             return new ArrayList<>();
@@ -69,6 +89,7 @@ public class FileUtil {
         List<Task> validTasks = new ArrayList<>();
         for (Task t : tasksArr) {
             if (t != null && t.getCompletionDate() != null && t.getCreateDate() != null) {
+                t.internTitle();
                 validTasks.add(t);
             } else if (t != null) {
                 System.out.println("Пропущена задача с некорректными датами: " + t.getTitle());
@@ -78,7 +99,19 @@ public class FileUtil {
     }
 
     public static void writeTasks(List<Task> tasks) {
+        writeTasks(PATH, tasks);
+    }
+
+    public static long writeTasks(Path path, List<Task> tasks) {
         Task[] tasksArr = tasks.toArray(new Task[0]);
-        writeToFile(PATH, GSON.toJson(tasksArr));
+        return writeToFile(path, GSON.toJson(tasksArr));
+    }
+
+    public static String readText(Path path) {
+        return readFile(path).strip();
+    }
+
+    public static long writeText(Path path, String text) {
+        return writeToFile(path, text);
     }
 }
@@ -0,0 +1,187 @@
+package utils;
+
+import models.IdAllocator;
+import models.Task;
+import models.TaskSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public class ShardedTaskStore {
+    public static final String DEFAULT_TENANT = "default";
+    public static final int DEFAULT_SHARD_SIZE = 1000;
+
+    private static final Path ROOT = Paths.get("src/data/shards");
+    private static final Pattern TENANT = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final Pattern SHARD_FILE = Pattern.compile("tasks-(\\d+)\\.json");
+
+    private final String tenant;
+    private final Path dir;
+    private final int shardSize;
+
+    private final Set<Integer> dirty = new TreeSet<>();
+    private IdAllocator ids;
+    private int persistedNextId;
+
+    public ShardedTaskStore(String tenant) {
+        this(ROOT, tenant, DEFAULT_SHARD_SIZE);
+    }
+
+    public ShardedTaskStore(Path root, String tenant, int shardSize) {
+        if (shardSize < 1) {
+            throw new IllegalArgumentException("Размер шарда должен быть больше 0");
+        }
+        if (tenant == null || !TENANT.matcher(tenant).matches()) {
+            throw new IllegalArgumentException(
+                    "Некорректное имя пользователя: допустимы латинские буквы, цифры, '_' и '-'");
+        }
+        this.tenant = tenant;
+        this.dir = root.resolve(tenant);
+        this.shardSize = shardSize;
+    }
+
+    public String getTenant() {
+        return tenant;
+    }
+
+    public int shardOf(int taskId) {
+        return (taskId - 1) / shardSize;
+    }
+
+    public synchronized IdAllocator ids() {
+        if (ids == null) {
+            ids = new IdAllocator(readNextId());
+            persistedNextId = ids.peek();
+        }
+        return ids;
+    }
+
+    public synchronized List<Task> loadAll() {
+        if (needsMigration()) {
+            return migrateLegacyFile();
+        }
+        List<Task> all = new ArrayList<>();
+        for (int shard : shardsOnDisk()) {
+            List<Task> tasks = FileUtil.readTasks(shardPath(shard));
+            tasks.forEach(t -> ids().reserve(t.getId()));
+            all.addAll(tasks);
+        }
+        return all;
+    }
+
+    public synchronized void markDirty(int taskId) {
+        dirty.add(shardOf(taskId));
+    }
+
+    public synchronized int dirtyShards() {
+        return dirty.size();
+    }
+
+    public synchronized long flush(Supplier<TaskSnapshot> source) {
+        long written = 0;
+        if (!dirty.isEmpty()) {
+            try (TaskSnapshot snapshot = source.get()) {
+                Iterator<Integer> pending = dirty.iterator();
+                while (pending.hasNext()) {
+                    int first = pending.next() * shardSize + 1;
+                    int[] rows = snapshot.idsBetween(first, first + shardSize - 1);
+                    long bytes = FileUtil.writeTasks(shardPath(shardOf(first)), snapshot.rows(rows));
+                    if (bytes >= 0) {
+                        written += bytes;
+                        pending.remove();
+                    }
+                }
+            }
+        }
+        return written + flushNextId();
+    }
+
+    private long flushNextId() {
+        if (ids == null || ids.peek() == persistedNextId) {
+            return 0;
+        }
+        int next = ids.peek();
+        long written = FileUtil.writeText(dir.resolve("next-id"), String.valueOf(next));
+        if (written < 0) {
+            return 0;
+        }
+        persistedNextId = next;
+        return written;
+    }
+
+    private Path shardPath(int shard) {
+        return dir.resolve("tasks-" + shard + ".json");
+    }
+
+    private List<Integer> shardsOnDisk() {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(p -> SHARD_FILE.matcher(p.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(m -> Integer.parseInt(m.group(1)))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            System.out.println("Ошибка чтения каталога шардов!");
+            return List.of();
+        }
+    }
+
+    private int readNextId() {
+        Path path = dir.resolve("next-id");
+        if (Files.exists(path)) {
+            try {
+                return Integer.parseInt(FileUtil.readText(path));
+            } catch (NumberFormatException e) {
+                System.out.println("Некорректный счётчик ID, пересчитываем по шардам");
+            }
+        }
+
+        List<Integer> shards = shardsOnDisk();
+        if (shards.isEmpty()) {
+            return 1;
+        }
+        return FileUtil.readTasks(shardPath(shards.get(shards.size() - 1))).stream()
+                .mapToInt(Task::getId)
+                .max()
+                .orElse(0) + 1;
+    }
+
+    private boolean needsMigration() {
+        return DEFAULT_TENANT.equals(tenant) && shardsOnDisk().isEmpty() && FileUtil.legacyFileExists();
+    }
+
+    private List<Task> migrateLegacyFile() {
+        List<Task> legacy = FileUtil.readTasks();
+        SortedMap<Integer, List<Task>> shards = new TreeMap<>();
+        for (Task task : legacy) {
+            shards.computeIfAbsent(shardOf(task.getId()), s -> new ArrayList<>()).add(task);
+            ids().reserve(task.getId());
+        }
+        if (shards.isEmpty()) {
+            return legacy;
+        }
+        shards.forEach((shard, tasks) -> {
+            if (FileUtil.writeTasks(shardPath(shard), tasks) < 0) {
+                dirty.add(shard);
+            }
+        });
+        flushNextId();
+        if (dirty.isEmpty()) {
+            System.out.println("Задачи перенесены из tasks.json в шарды: " + dir
+                    + "\nФайл tasks.json больше не обновляется и используется только для импорта");
+        } else {
+            System.out.println("Не удалось записать шарды " + dirty + ", повторим при следующем сохранении");
+        }
+        return legacy;
+    }
+}
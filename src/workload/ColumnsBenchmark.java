@@ -0,0 +1,160 @@
+package workload;
+
+import models.Task;
+import models.TaskColumns;
+import utils.CompactText;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+public class ColumnsBenchmark {
+    private static final String[] TITLES = {
+            "купить", "позвонить маме", "сделать домашку", "оплатить счета",
+            "записаться к врачу", "починить кран", "отчёт по проекту", "подготовить презентацию"
+    };
+    private static final String[] WORDS = {
+            "молоко", "хлеб", "встреча", "проект", "срочно", "квартира",
+            "банк", "документы", "отчёт", "код", "тест", "книга"
+    };
+
+    private record PlainTask(int id, String title, String description, LocalDate completionDate,
+                             LocalDate createDate, Task.Priority priority, Task.Status status, Integer rating) {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = WorkloadDriver.parseOptions(args);
+        int size = Integer.parseInt(options.getOrDefault("tasks", "1000000"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "15"));
+        String keyword = options.getOrDefault("keyword", "проект").toLowerCase();
+
+        System.out.println("layout,tasks,heap_bytes_per_task,priority_scan_ms,search_ms,hits");
+
+        long baseline = usedHeap();
+        List<PlainTask> plain = plainTasks(size);
+        report("strings", size, usedHeap() - baseline,
+                best(rounds, () -> scanPlainPriority(plain)),
+                best(rounds, () -> searchPlain(plain, keyword)),
+                searchPlain(plain, keyword));
+        plain.clear();
+
+        baseline = usedHeap();
+        List<Task> tasks = tasks(size);
+        report("objects", size, usedHeap() - baseline,
+                best(rounds, () -> scanPriority(tasks)),
+                best(rounds, () -> search(tasks, keyword)),
+                search(tasks, keyword));
+
+        TaskColumns columns = TaskColumns.of(tasks);
+        tasks.clear();
+        report("columns", size, usedHeap() - baseline,
+                best(rounds, () -> columns.byPriority(Task.Priority.HIGH).length),
+                best(rounds, () -> columns.containing(keyword).length),
+                columns.containing(keyword).length);
+    }
+
+    private static List<PlainTask> plainTasks(int size) {
+        List<PlainTask> tasks = new ArrayList<>(size);
+        generate(size, (id, title, description, completion, created, priority) -> tasks.add(new PlainTask(
+                id, new String(title), description, completion, created, priority, Task.Status.NEW, null)));
+        return tasks;
+    }
+
+    private static List<Task> tasks(int size) {
+        List<Task> tasks = new ArrayList<>(size);
+        generate(size, (id, title, description, completion, created, priority) -> tasks.add(new Task(
+                id, title, description, completion, created, priority, Task.Status.NEW)));
+        return tasks;
+    }
+
+    private interface TaskSink {
+        void accept(int id, String title, String description, LocalDate completion, LocalDate created,
+                    Task.Priority priority);
+    }
+
+    private static void generate(int size, TaskSink sink) {
+        Random random = new Random(42);
+        LocalDate created = LocalDate.of(2026, 1, 1);
+        Task.Priority[] priorities = Task.Priority.values();
+        for (int id = 1; id <= size; id++) {
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 4; w++) {
+                description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            description.append(id % 5000);
+            sink.accept(id, TITLES[random.nextInt(TITLES.length)], description.toString(),
+                    created.plusDays(30 + id % 365), created.plusDays(id % 7), priorities[id % priorities.length]);
+        }
+    }
+
+    private static int scanPlainPriority(List<PlainTask> tasks) {
+        int hits = 0;
+        for (PlainTask task : tasks) {
+            if (task.priority() == Task.Priority.HIGH) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static int searchPlain(List<PlainTask> tasks, String keyword) {
+        int hits = 0;
+        for (PlainTask task : tasks) {
+            if (task.title().toLowerCase().contains(keyword)
+                    || task.description().toLowerCase().contains(keyword)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static int scanPriority(List<Task> tasks) {
+        int hits = 0;
+        for (Task task : tasks) {
+            if (task.getPriority() == Task.Priority.HIGH) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static int search(List<Task> tasks, String keyword) {
+        CompactText.Needle needle = CompactText.needle(keyword);
+        int hits = 0;
+        for (Task task : tasks) {
+            if (task.getTitleText().folded().contains(needle)
+                    || task.getDescriptionText().folded().contains(needle)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static double best(int rounds, IntSupplier scan) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            long started = System.nanoTime();
+            scan.getAsInt();
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        return best / 1e6;
+    }
+
+    private static void report(String layout, int size, long heap, double priorityMs, double searchMs, int hits) {
+        System.out.printf(Locale.ROOT, "%s,%d,%d,%.2f,%.2f,%d%n",
+                layout, size, heap / size, priorityMs, searchMs, hits);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
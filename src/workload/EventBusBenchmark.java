@@ -0,0 +1,51 @@
+package workload;
+
+import events.BackpressurePolicy;
+import events.TaskEvent;
+import events.TaskEventBus;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class EventBusBenchmark {
+    public static void main(String[] args) {
+        Map<String, String> options = WorkloadDriver.parseOptions(args);
+        int events = Integer.parseInt(options.getOrDefault("events", "5000000"));
+        int capacity = Integer.parseInt(options.getOrDefault("capacity", String.valueOf(TaskEventBus.DEFAULT_CAPACITY)));
+        int batchSize = Integer.parseInt(options.getOrDefault("batch", String.valueOf(TaskEventBus.DEFAULT_BATCH_SIZE)));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "3"));
+
+        System.out.println("policy,round,events,publish_mev_per_sec,drain_mev_per_sec,delivered,dropped");
+        for (BackpressurePolicy policy : BackpressurePolicy.values()) {
+            for (int round = 1; round <= rounds; round++) {
+                run(policy, round, events, capacity, batchSize);
+            }
+        }
+    }
+
+    private static void run(BackpressurePolicy policy, int round, int events, int capacity, int batchSize) {
+        TaskEventBus bus = new TaskEventBus();
+        AtomicLong received = new AtomicLong();
+        TaskEventBus.Subscription subscription = bus.subscribe("benchmark",
+                batch -> received.addAndGet(batch.size()), capacity, batchSize, policy);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            bus.publish(new TaskEvent.Deleted(i));
+        }
+        long published = System.nanoTime();
+        bus.close();
+        long drained = System.nanoTime();
+
+        if (received.get() != subscription.getDelivered()) {
+            throw new IllegalStateException("Доставлено " + subscription.getDelivered()
+                    + ", получено подписчиком " + received.get());
+        }
+        System.out.printf(Locale.ROOT, "%s,%d,%d,%.2f,%.2f,%d,%d%n",
+                policy, round, events,
+                events / ((published - started) / 1e9) / 1e6,
+                events / ((drained - started) / 1e9) / 1e6,
+                subscription.getDelivered(), subscription.getDropped());
+    }
+}
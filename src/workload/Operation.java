@@ -0,0 +1,5 @@
+package workload;
+
+public enum Operation {
+    ADD, STATUS, DESCRIBE, DELETE, SORT, FILTER, SEARCH, RATE
+}
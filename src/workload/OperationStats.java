@@ -0,0 +1,72 @@
+package workload;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public class OperationStats {
+    private final String name;
+    private long[] latencies = new long[64];
+    private int count;
+    private int errors;
+    private long totalNanos;
+    private long allocatedBytes;
+    private long persistedBytes;
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long nanos, long allocated, long persisted, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        totalNanos += nanos;
+        allocatedBytes += Math.max(allocated, 0);
+        persistedBytes += persisted;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public static String csvHeader() {
+        return "build,operation,count,errors,ops_per_sec,mean_us,p50_us,p95_us,p99_us,max_us,"
+                + "alloc_bytes_per_op,alloc_mb_per_sec,persisted_bytes";
+    }
+
+    public String toCsv(String build, double wallSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        return String.join(",",
+                build,
+                name,
+                String.valueOf(count),
+                String.valueOf(errors),
+                format(wallSeconds > 0 ? count / wallSeconds : 0),
+                format(count > 0 ? totalNanos / 1e3 / count : 0),
+                format(percentile(sorted, 0.50) / 1e3),
+                format(percentile(sorted, 0.95) / 1e3),
+                format(percentile(sorted, 0.99) / 1e3),
+                format(count > 0 ? sorted[count - 1] / 1e3 : 0),
+                String.valueOf(count > 0 ? allocatedBytes / count : 0),
+                format(wallSeconds > 0 ? allocatedBytes / 1e6 / wallSeconds : 0),
+                String.valueOf(persistedBytes));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
@@ -0,0 +1,116 @@
+package workload;
+
+import models.Task;
+import models.TaskSnapshot;
+import models.VersionedTaskStore;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SnapshotBenchmark {
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = WorkloadDriver.parseOptions(args);
+        int size = Integer.parseInt(options.getOrDefault("tasks", "10000"));
+        int readers = Integer.parseInt(options.getOrDefault("readers", "3"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "5"));
+
+        VersionedTaskStore store = new VersionedTaskStore(tasks(1, size));
+        ConcurrentSkipListMap<Long, Integer> sizeByVersion = new ConcurrentSkipListMap<>();
+        sizeByVersion.put(store.getVersion(), size);
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong reads = new AtomicLong();
+        AtomicLong commits = new AtomicLong();
+        AtomicLong inconsistent = new AtomicLong();
+        AtomicInteger maxLive = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            threads.add(new Thread(() -> {
+                while (!stop.get()) {
+                    try (TaskSnapshot snapshot = store.snapshot()) {
+                        Integer expected = sizeByVersion.get(snapshot.getVersion());
+                        int[] high = snapshot.byPriority(Task.Priority.HIGH);
+                        List<Task> sorted = snapshot.sorted(high);
+                        int total = 0;
+                        for (Task.Priority priority : Task.Priority.values()) {
+                            total += snapshot.byPriority(priority).length;
+                        }
+                        if (expected == null || snapshot.size() != expected || total != expected
+                                || sorted.size() != high.length
+                                || sorted.stream().anyMatch(task -> task.getPriority() != Task.Priority.HIGH)) {
+                            inconsistent.incrementAndGet();
+                        }
+                    }
+                    reads.incrementAndGet();
+                }
+            }, "reader-" + i));
+        }
+        threads.add(new Thread(() -> {
+            Random random = new Random(42);
+            List<Integer> live = new ArrayList<>();
+            for (int id = 1; id <= size; id++) {
+                live.add(id);
+            }
+            int nextId = size + 1;
+            while (!stop.get()) {
+                long next = store.getVersion() + 1;
+                switch (random.nextInt(3)) {
+                    case 0 -> {
+                        sizeByVersion.put(next, live.size() + 1);
+                        store.add(tasks(nextId, 1).get(0));
+                        live.add(nextId++);
+                    }
+                    case 1 -> {
+                        int id = live.remove(random.nextInt(live.size()));
+                        sizeByVersion.put(next, live.size());
+                        store.update(id, Task::deleteState);
+                    }
+                    default -> {
+                        int id = live.get(random.nextInt(live.size()));
+                        sizeByVersion.put(next, live.size());
+                        store.update(id, task -> task.setDescription("описание " + random.nextInt(1000)));
+                    }
+                }
+                if (commits.incrementAndGet() % 1024 == 0) {
+                    sizeByVersion.headMap(store.oldestLiveVersion()).clear();
+                }
+                maxLive.accumulateAndGet(store.liveVersions(), Math::max);
+            }
+        }, "writer"));
+
+        long started = System.nanoTime();
+        threads.forEach(Thread::start);
+        Thread.sleep(seconds * 1000L);
+        stop.set(true);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double elapsed = (System.nanoTime() - started) / 1e9;
+
+        System.out.println("tasks,readers,seconds,reads_per_sec,commits_per_sec,max_live_versions,"
+                + "live_versions_after,inconsistent_reads");
+        System.out.printf(Locale.ROOT, "%d,%d,%.2f,%.0f,%.0f,%d,%d,%d%n",
+                size, readers, elapsed, reads.get() / elapsed, commits.get() / elapsed,
+                maxLive.get(), store.liveVersions(), inconsistent.get());
+    }
+
+    private static List<Task> tasks(int firstId, int size) {
+        LocalDate created = LocalDate.of(2026, 1, 1);
+        Task.Priority[] priorities = Task.Priority.values();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int id = firstId; id < firstId + size; id++) {
+            tasks.add(new Task(id, "задача " + id % 500, "описание " + id, created.plusDays(30 + id % 365),
+                    created, priorities[id % priorities.length], Task.Status.NEW));
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,214 @@
+package workload;
+
+import models.Task;
+import models.TaskColumns;
+import models.TaskService;
+import utils.ShardedTaskStore;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.*;
+import java.util.stream.Stream;
+
+public class WorkloadDriver {
+    private static final String TENANT = "workload";
+
+    private final TaskService service;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final OperationStats total = new OperationStats("TOTAL");
+    private final com.sun.management.ThreadMXBean threads;
+    private long sink;
+    private long measuredNanos;
+
+    public WorkloadDriver(TaskService service) {
+        this.service = service;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation.name()));
+        }
+        this.threads = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() ? bean : null;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+
+        boolean temporary = !options.containsKey("data");
+        Path data = temporary ? Files.createTempDirectory("workload") : Paths.get(options.get("data"));
+        String build = options.getOrDefault("build", "local");
+        Path out = Paths.get(options.getOrDefault("out", "workload-results.csv"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "0"));
+
+        try (TaskService service = new TaskService(
+                new ShardedTaskStore(data, TENANT, ShardedTaskStore.DEFAULT_SHARD_SIZE), Clock.systemDefaultZone())) {
+            service.load();
+
+            List<WorkloadStep> steps;
+            if (options.containsKey("replay")) {
+                steps = readSteps(Paths.get(options.get("replay")));
+            } else {
+                Map<Operation, Integer> mix = options.containsKey("mix")
+                        ? WorkloadGenerator.parseMix(options.get("mix"))
+                        : WorkloadGenerator.defaultMix();
+                long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+                int ops = Integer.parseInt(options.getOrDefault("ops", "10000"));
+                steps = new WorkloadGenerator(mix, seed, service.nextId()).generate(warmup + ops);
+            }
+            if (options.containsKey("record")) {
+                writeSteps(Paths.get(options.get("record")), steps);
+            }
+
+            WorkloadDriver driver = new WorkloadDriver(service);
+            long started = System.nanoTime();
+            driver.run(steps, warmup);
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            driver.export(out, build);
+            System.out.printf(Locale.ROOT, "Выполнено операций: %d за %.2f с (%.0f оп/с), результаты: %s%n",
+                    steps.size(), seconds, steps.size() / seconds, out);
+        } finally {
+            if (temporary) {
+                deleteRecursively(data);
+            }
+        }
+    }
+
+    public void run(List<WorkloadStep> steps, int warmup) {
+        long measuredFrom = System.nanoTime();
+        for (int i = 0; i < steps.size(); i++) {
+            if (i == warmup) {
+                measuredFrom = System.nanoTime();
+            }
+            WorkloadStep step = steps.get(i);
+
+            long allocatedBefore = allocatedBytes();
+            long started = System.nanoTime();
+            long persisted = 0;
+            boolean success = true;
+            try {
+                persisted = execute(step);
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                success = false;
+            }
+            long elapsed = System.nanoTime() - started;
+            long allocated = allocatedBytes() - allocatedBefore;
+
+            if (i >= warmup) {
+                stats.get(step.operation()).record(elapsed, allocated, persisted, success);
+                total.record(elapsed, allocated, persisted, success);
+            }
+        }
+        measuredNanos = System.nanoTime() - measuredFrom;
+        service.save();
+    }
+
+    public void export(Path out, String build) throws IOException {
+        double seconds = measuredNanos / 1e9;
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(out)) {
+            lines.add(OperationStats.csvHeader());
+        }
+        stats.values().stream()
+                .filter(s -> s.getCount() > 0)
+                .forEach(s -> lines.add(s.toCsv(build, seconds)));
+        lines.add(total.toCsv(build, seconds));
+
+        Files.write(out, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        lines.forEach(System.out::println);
+    }
+
+    private long execute(WorkloadStep step) {
+        return switch (step.operation()) {
+            case ADD -> {
+                service.addTask(step.arg(0), step.arg(1),
+                        service.today().plusDays(step.intArg(2)), Task.Priority.valueOf(step.arg(3)));
+                yield service.save();
+            }
+            case STATUS -> {
+                service.changeStatus(step.intArg(0));
+                yield service.save();
+            }
+            case DESCRIBE -> {
+                service.changeDescription(step.intArg(0), step.arg(1));
+                yield service.save();
+            }
+            case DELETE -> {
+                service.deleteTask(step.intArg(0));
+                yield service.save();
+            }
+            case RATE -> {
+                service.rateTask(step.intArg(0), step.intArg(1));
+                yield service.save();
+            }
+            case SORT -> {
+                service.setSort(TaskColumns.SortKey.valueOf(step.arg(0)));
+                sink += service.sorted().size();
+                yield 0;
+            }
+            case FILTER -> {
+                sink += filter(step).size();
+                yield 0;
+            }
+            case SEARCH -> {
+                String keyword = step.arg(0).toLowerCase();
+                sink += service.query(snapshot -> snapshot.containing(keyword)).size();
+                yield 0;
+            }
+        };
+    }
+
+    private List<Task> filter(WorkloadStep step) {
+        return switch (step.arg(0)) {
+            case "PRIORITY" -> {
+                Task.Priority priority = Task.Priority.valueOf(step.arg(1));
+                yield service.query(snapshot -> snapshot.byPriority(priority));
+            }
+            case "STATUS" -> {
+                Task.Status status = Task.Status.valueOf(step.arg(1));
+                yield service.query(snapshot -> snapshot.byStatus(status));
+            }
+            case "OVERDUE" -> service.overdue();
+            case "DUE" -> service.dueWithin(step.intArg(1));
+            default -> throw new IllegalArgumentException("Неизвестный фильтр: " + step.arg(0));
+        };
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Ожидается --параметр значение, получено: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private static List<WorkloadStep> readSteps(Path path) throws IOException {
+        return Files.readAllLines(path, StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.isBlank() && !line.stripLeading().startsWith("#"))
+                .map(WorkloadStep::parse)
+                .toList();
+    }
+
+    private static void writeSteps(Path path, List<WorkloadStep> steps) throws IOException {
+        Files.write(path, steps.stream().map(WorkloadStep::format).toList(), StandardCharsets.UTF_8);
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
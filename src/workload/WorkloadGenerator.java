@@ -0,0 +1,156 @@
+package workload;
+
+import models.Task;
+import models.TaskColumns;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+public class WorkloadGenerator {
+    private static final String[] TITLES = {
+            "купить", "позвонить маме", "сделать домашку", "оплатить счета",
+            "записаться к врачу", "починить кран", "отчёт по проекту", "подготовить презентацию"
+    };
+    private static final String[] WORDS = {
+            "молоко", "хлеб", "встреча", "проект", "срочно", "квартира",
+            "банк", "документы", "отчёт", "код", "тест", "книга"
+    };
+
+    private final Map<Operation, Integer> mix;
+    private final int totalWeight;
+    private final Random random;
+
+    private final List<Integer> live = new ArrayList<>();
+    private final Map<Integer, Task.Status> statuses = new HashMap<>();
+    private final Set<Integer> rated = new HashSet<>();
+    private int nextId;
+
+    public WorkloadGenerator(Map<Operation, Integer> mix, long seed, int firstId) {
+        this.mix = new EnumMap<>(mix);
+        this.totalWeight = this.mix.values().stream().mapToInt(Integer::intValue).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("Сумма весов операций должна быть больше 0");
+        }
+        this.random = new Random(seed);
+        this.nextId = firstId;
+    }
+
+    public static Map<Operation, Integer> defaultMix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        mix.put(Operation.ADD, 20);
+        mix.put(Operation.STATUS, 15);
+        mix.put(Operation.DESCRIBE, 10);
+        mix.put(Operation.DELETE, 5);
+        mix.put(Operation.SORT, 10);
+        mix.put(Operation.FILTER, 15);
+        mix.put(Operation.SEARCH, 15);
+        mix.put(Operation.RATE, 10);
+        return mix;
+    }
+
+    public static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Ожидается операция=вес: " + part);
+            }
+            mix.put(Operation.valueOf(pair[0].strip().toUpperCase()), Integer.parseInt(pair[1].strip()));
+        }
+        return mix;
+    }
+
+    public List<WorkloadStep> generate(int count) {
+        List<WorkloadStep> steps = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            steps.add(next());
+        }
+        return steps;
+    }
+
+    public WorkloadStep next() {
+        Operation operation = pick();
+        if (live.isEmpty() && operation != Operation.SORT
+                && operation != Operation.FILTER && operation != Operation.SEARCH) {
+            operation = Operation.ADD;
+        }
+
+        return switch (operation) {
+            case ADD -> add();
+            case STATUS -> pickLive(id -> statuses.get(id) != Task.Status.DONE)
+                    .map(id -> {
+                        statuses.computeIfPresent(id, (key, status) -> advance(status));
+                        return WorkloadStep.of(Operation.STATUS, id);
+                    })
+                    .orElseGet(this::add);
+            case DESCRIBE -> pickLive(id -> statuses.get(id) == Task.Status.NEW)
+                    .map(id -> WorkloadStep.of(Operation.DESCRIBE, id, description()))
+                    .orElseGet(this::add);
+            case DELETE -> pickLive(id -> statuses.get(id) == Task.Status.NEW)
+                    .map(id -> {
+                        live.remove(id);
+                        statuses.remove(id);
+                        return WorkloadStep.of(Operation.DELETE, id);
+                    })
+                    .orElseGet(this::add);
+            case SORT -> WorkloadStep.of(Operation.SORT, pickOf(TaskColumns.SortKey.values()));
+            case FILTER -> switch (random.nextInt(4)) {
+                case 0 -> WorkloadStep.of(Operation.FILTER, "PRIORITY", pickOf(Task.Priority.values()));
+                case 1 -> WorkloadStep.of(Operation.FILTER, "STATUS", pickOf(Task.Status.values()));
+                case 2 -> WorkloadStep.of(Operation.FILTER, "OVERDUE");
+                default -> WorkloadStep.of(Operation.FILTER, "DUE", random.nextInt(30));
+            };
+            case SEARCH -> WorkloadStep.of(Operation.SEARCH, pickOf(WORDS));
+            case RATE -> pickLive(id -> statuses.get(id) == Task.Status.DONE && !rated.contains(id))
+                    .map(id -> {
+                        rated.add(id);
+                        return WorkloadStep.of(Operation.RATE, id, 1 + random.nextInt(5));
+                    })
+                    .orElseGet(this::add);
+        };
+    }
+
+    private WorkloadStep add() {
+        live.add(nextId);
+        statuses.put(nextId++, Task.Status.NEW);
+        return WorkloadStep.of(Operation.ADD, pickOf(TITLES), description(),
+                random.nextInt(60), pickOf(Task.Priority.values()));
+    }
+
+    private static Task.Status advance(Task.Status status) {
+        return switch (status) {
+            case NEW -> Task.Status.IN_PROGRESS;
+            case IN_PROGRESS, DONE -> Task.Status.DONE;
+        };
+    }
+
+    private Operation pick() {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Некорректные веса операций");
+    }
+
+    private Optional<Integer> pickLive(Predicate<Integer> eligible) {
+        List<Integer> candidates = live.stream().filter(eligible).toList();
+        return candidates.isEmpty()
+                ? Optional.empty()
+                : Optional.of(candidates.get(random.nextInt(candidates.size())));
+    }
+
+    private String description() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            text.append(pickOf(WORDS)).append(' ');
+        }
+        return text.append(random.nextInt(10_000)).toString();
+    }
+
+    private <T> T pickOf(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
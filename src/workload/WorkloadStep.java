@@ -0,0 +1,78 @@
+package workload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public record WorkloadStep(Operation operation, List<String> args) {
+    private static final char SEPARATOR = ';';
+    private static final char ESCAPE = '\\';
+
+    public static WorkloadStep of(Operation operation, Object... args) {
+        return new WorkloadStep(operation, Arrays.stream(args).map(String::valueOf).toList());
+    }
+
+    public static WorkloadStep parse(String line) {
+        List<String> parts = split(line);
+        try {
+            Operation operation = Operation.valueOf(parts.get(0).strip().toUpperCase());
+            return new WorkloadStep(operation, parts.subList(1, parts.size()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Неизвестная операция в сценарии: " + line);
+        }
+    }
+
+    public String arg(int index) {
+        if (index >= args.size()) {
+            throw new IllegalArgumentException("Не хватает аргументов для " + operation + ": " + args);
+        }
+        return args.get(index);
+    }
+
+    public int intArg(int index) {
+        return Integer.parseInt(arg(index).strip());
+    }
+
+    public String format() {
+        StringBuilder line = new StringBuilder(operation.name());
+        for (String arg : args) {
+            line.append(SEPARATOR);
+            escape(arg, line);
+        }
+        return line.toString();
+    }
+
+    private static void escape(String arg, StringBuilder out) {
+        for (int i = 0; i < arg.length(); i++) {
+            char c = arg.charAt(i);
+            switch (c) {
+                case SEPARATOR, ESCAPE -> out.append(ESCAPE).append(c);
+                case '\n' -> out.append(ESCAPE).append('n');
+                case '\r' -> out.append(ESCAPE).append('r');
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private static List<String> split(String line) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder part = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == ESCAPE) {
+                if (++i == line.length()) {
+                    throw new IllegalArgumentException("Незавершённое экранирование в сценарии: " + line);
+                }
+                char escaped = line.charAt(i);
+                part.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+            } else if (c == SEPARATOR) {
+                parts.add(part.toString());
+                part.setLength(0);
+            } else {
+                part.append(c);
+            }
+        }
+        parts.add(part.toString());
+        return parts;
+    }
+}